@@ -20,6 +20,7 @@ package walkingkooka.spreadsheet.terminal.storage;
 import walkingkooka.environment.EnvironmentValueName;
 import walkingkooka.spreadsheet.environment.SpreadsheetEnvironmentContextFactory;
 import walkingkooka.spreadsheet.meta.SpreadsheetId;
+import walkingkooka.spreadsheet.meta.SpreadsheetMetadataPropertyName;
 import walkingkooka.spreadsheet.reference.SpreadsheetLabelName;
 import walkingkooka.spreadsheet.storage.SpreadsheetStorageContext;
 import walkingkooka.storage.Storage;
@@ -39,6 +40,9 @@ import java.util.function.BiFunction;
  * /spreadsheet/{@link SpreadsheetId}
  * /spreadsheet/1 // metadata
  *
+ * /spreadsheet/{@link SpreadsheetId}/property/{@link SpreadsheetMetadataPropertyName}
+ * /spreadsheet/1/property/locale // single metadata property
+ *
  * /cell/SpreadsheetExpressionReference // uses {@link EnvironmentValueName}
  * /cell/A1
  *
@@ -178,6 +182,13 @@ final class SpreadsheetTerminalStorageRouter extends SpreadsheetTerminalStorage
                                 executeContext = context;
                                 break;
                             default:
+                                if (SpreadsheetTerminalStorageSpreadsheetMetadata.PROPERTY.equals(names.get(3).value())) {
+                                    // /spreadsheet/1/property/locale
+                                    storage = this.metadatas;
+                                    executeContext = context;
+                                    break;
+                                }
+
                                 // /spreadsheet/1/cell
                                 // /spreadsheet/1/label
 
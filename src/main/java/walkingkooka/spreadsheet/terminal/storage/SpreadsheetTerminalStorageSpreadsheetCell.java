@@ -19,10 +19,16 @@ package walkingkooka.spreadsheet.terminal.storage;
 
 import walkingkooka.collect.list.ImmutableList;
 import walkingkooka.collect.set.Sets;
+import walkingkooka.environment.AuditInfo;
 import walkingkooka.net.header.MediaType;
 import walkingkooka.spreadsheet.engine.SpreadsheetDeltaProperties;
 import walkingkooka.spreadsheet.engine.collection.SpreadsheetCellSet;
+import walkingkooka.spreadsheet.environment.SpreadsheetEnvironmentContext;
+import walkingkooka.spreadsheet.meta.SpreadsheetId;
+import walkingkooka.spreadsheet.meta.SpreadsheetMetadata;
+import walkingkooka.spreadsheet.meta.SpreadsheetMetadataPropertyName;
 import walkingkooka.spreadsheet.net.SpreadsheetMediaTypes;
+import walkingkooka.spreadsheet.reference.SpreadsheetCellReference;
 import walkingkooka.spreadsheet.reference.SpreadsheetExpressionReference;
 import walkingkooka.spreadsheet.reference.SpreadsheetSelection;
 import walkingkooka.spreadsheet.storage.SpreadsheetStorageContext;
@@ -33,17 +39,42 @@ import walkingkooka.storage.StorageName;
 import walkingkooka.storage.StoragePath;
 import walkingkooka.storage.StorageValue;
 import walkingkooka.storage.StorageValueInfo;
+import walkingkooka.tree.expression.ExpressionNumber;
+import walkingkooka.tree.expression.ExpressionNumberContext;
+import walkingkooka.tree.expression.ExpressionNumberContexts;
+import walkingkooka.tree.expression.ExpressionNumberKind;
 
+import java.io.StringReader;
+import java.math.MathContext;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A {@link Storage} that maps cells to a {@link Storage}, for the current spreadsheet.
  * <pre>
  * /cell/SpreadsheetExpressionReference
+ * /cell/SpreadsheetExpressionReference/filter
+ * /cell/SpreadsheetExpressionReference/aggregate
  * </pre>
- * for the {@link StorageValue}.
+ * for the {@link StorageValue}. The optional filter is applied within the storage, so only matching cells are loaded
+ * or listed and must be one of <code>error</code>, <code>non-empty</code> or <code>value</code>.
+ * <br>
+ * Loads may also end with an aggregate, one of <code>average</code>, <code>count</code>, <code>max</code>,
+ * <code>min</code> or <code>sum</code>, which returns a single {@link ExpressionNumber} computed from the number values of
+ * the selected cells rather than the cells themselves, using the {@link ExpressionNumberKind} and precision of the
+ * spreadsheet. Aggregates have no content type, as there is no media type for a single number.
+ * <br>
+ * Any other name after the selection, such as an evaluation like <code>compute-if-necessary</code>, is ignored, as
+ * {@link SpreadsheetStorageContext} always loads cells using compute-if-necessary.
+ * <br>
+ * Text may be imported by saving CSV or TSV to <code>/cell/A1/csv</code> or <code>/cell/A1/tsv</code>, where A1 is the
+ * top left cell.
  */
 final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTerminalStorage {
 
@@ -66,14 +97,28 @@ final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTermina
         final List<StorageName> names = path.namesList();
 
         final SpreadsheetExpressionReference cellOrLabels;
+        Predicate<SpreadsheetCell> filter = null;
+        BiFunction<Stream<ExpressionNumber>, ExpressionNumberContext, Optional<ExpressionNumber>> aggregate = null;
 
         // SLASH A1 compute-if-necessary
+        // SLASH A1 filter
+        // SLASH A1 aggregate
         switch (names.size()) {
             case 2:
+                cellOrLabels = parseExpressionReference(
+                    names.get(1)
+                );
+                break;
             case 3:
                 cellOrLabels = parseExpressionReference(
                     names.get(1)
                 );
+                filter = filter(
+                    names.get(2)
+                );
+                aggregate = aggregate(
+                    names.get(2)
+                );
                 break;
             default:
                 cellOrLabels = null;
@@ -81,8 +126,24 @@ final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTermina
         }
 
         if (null != cellOrLabels) {
-            final Set<SpreadsheetCell> cells = context.loadCells(cellOrLabels);
-            if (false == cells.isEmpty()) {
+            Set<SpreadsheetCell> cells = context.loadCells(cellOrLabels);
+            if (null != filter) {
+                cells = SpreadsheetCellSet.EMPTY.concatAll(
+                    cells.stream()
+                        .filter(filter)
+                        .collect(Collectors.toList())
+                );
+            }
+
+            if (null != aggregate) {
+                value = StorageValue.with(
+                    path,
+                    aggregate.apply(
+                        numbers(cells),
+                        expressionNumberContext(context)
+                    ).map(v -> (Object) v)
+                );
+            } else if (false == cells.isEmpty()) {
                 value = StorageValue.with(
                     path,
                     Optional.of(cells)
@@ -101,12 +162,20 @@ final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTermina
     @Override
     StorageValue saveNonNull(final StorageValue value,
                              final SpreadsheetStorageContext context) {
-        switch (value.path()
-            .namesList()
-            .size()) {
+        final List<StorageName> names = value.path()
+            .namesList();
+
+        switch (names.size()) {
             case 0:
             case 1:
                 break;
+            case 3:
+                // SLASH A1 csv
+                return importCells(
+                    value,
+                    names,
+                    context
+                );
             default:
                 throw new IllegalArgumentException("Invalid path, must not contain selection");
         }
@@ -124,9 +193,73 @@ final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTermina
         ).setContentType(MEDIA_TYPE);
     }
 
+    private final static String CSV = "csv";
+
+    private final static String TSV = "tsv";
+
+    /**
+     * Imports CSV or TSV text starting at the anchor cell in the path, saving cells in batches as they are read. The
+     * value is converted to text by the {@link SpreadsheetStorageContext}. The returned {@link StorageValue} holds the
+     * number of cells imported rather than the cells. Text with a missing closing quote, or that would extend past the
+     * last column or row, fails before any cell is saved. The result has no content type, as the content type of the
+     * text, such as CSV, does not describe the count.
+     * <pre>
+     * /cell/A1/csv
+     * /cell/A1/tsv
+     * </pre>
+     */
+    private static StorageValue importCells(final StorageValue value,
+                                            final List<StorageName> names,
+                                            final SpreadsheetStorageContext context) {
+        final char separator;
+
+        switch (names.get(2).value()) {
+            case CSV:
+                separator = ',';
+                break;
+            case TSV:
+                separator = '\t';
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid path after selection");
+        }
+
+        final String text = context.convertOrFail(
+            value.value()
+                .orElse(""),
+            String.class
+        );
+        final SpreadsheetCellReference anchor = SpreadsheetSelection.parseCell(
+            names.get(1)
+                .value()
+        );
+
+        SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.check(
+            new StringReader(text),
+            separator,
+            anchor
+        );
+
+        return StorageValue.with(
+            value.path(),
+            Optional.of(
+                SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.importCells(
+                    new StringReader(text),
+                    separator,
+                    anchor,
+                    SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.BATCH_SIZE,
+                    context::saveCells
+                )
+            )
+        );
+    }
+
     /**
      * Deletes the given cells. Note if the path contains additional components a {@link IllegalArgumentException}
      * will be thrown.
+     * <br>
+     * Ranges and labels are passed to the {@link SpreadsheetStorageContext} as a single delete, and are never expanded
+     * into a delete per cell.
      */
     @Override
     void deleteNonNull(final StoragePath path,
@@ -156,29 +289,50 @@ final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTermina
         final List<StorageName> names = path.namesList();
 
         final SpreadsheetExpressionReference cellOrLabels;
+        final Predicate<SpreadsheetCell> filter;
 
         switch (names.size()) {
             case 0:
             case 1:
                 cellOrLabels = SpreadsheetSelection.ALL_CELLS;
+                filter = ALL;
                 break;
             case 2:
                 cellOrLabels = parseExpressionReference(
                     names.get(1)
                 );
+                filter = ALL;
+                break;
+            case 3:
+                cellOrLabels = parseExpressionReference(
+                    names.get(1)
+                );
+                filter = filter(
+                    names.get(2)
+                );
+                if (null == filter) {
+                    throw new IllegalArgumentException("Invalid path after selection");
+                }
                 break;
             default:
                 throw new IllegalArgumentException("Invalid path after selection");
         }
 
+        // shared by all StorageValueInfo
+        final AuditInfo auditInfo = context.createdAuditInfo();
+
+        // skip and limit before mapping so only the requested page creates StoragePath & StorageValueInfo
         return context.loadCells(cellOrLabels)
             .stream()
+            .filter(filter)
+            .skip(offset)
+            .limit(count)
             .map(
                 (SpreadsheetCell c) -> StorageValueInfo.with(
                     StoragePath.ROOT.append(
                         StorageName.with(c.reference().text())
                     ),
-                    context.createdAuditInfo()
+                    auditInfo
                 )
             ).collect(ImmutableList.collector());
     }
@@ -189,6 +343,161 @@ final class SpreadsheetTerminalStorageSpreadsheetCell extends SpreadsheetTermina
         );
     }
 
+    private final static Predicate<SpreadsheetCell> ALL = (c) -> true;
+
+    private final static String ERROR_FILTER = "error";
+
+    private final static String NON_EMPTY_FILTER = "non-empty";
+
+    private final static String VALUE_FILTER = "value";
+
+    /**
+     * Returns a {@link Predicate} for the given filter name or null if the name is not a filter.
+     */
+    private static Predicate<SpreadsheetCell> filter(final StorageName name) {
+        final Predicate<SpreadsheetCell> filter;
+
+        switch (name.value()) {
+            case ERROR_FILTER:
+                filter = (c) -> c.formula()
+                    .error()
+                    .isPresent();
+                break;
+            case NON_EMPTY_FILTER:
+                filter = (c) -> false == c.formula()
+                    .text()
+                    .isEmpty();
+                break;
+            case VALUE_FILTER:
+                filter = (c) -> c.formula()
+                    .value()
+                    .isPresent() &&
+                    false == c.formula()
+                        .error()
+                        .isPresent();
+                break;
+            default:
+                filter = null;
+                break;
+        }
+
+        return filter;
+    }
+
+    private final static String AVERAGE_AGGREGATE = "average";
+
+    private final static String COUNT_AGGREGATE = "count";
+
+    private final static String MAX_AGGREGATE = "max";
+
+    private final static String MIN_AGGREGATE = "min";
+
+    private final static String SUM_AGGREGATE = "sum";
+
+    /**
+     * Returns a {@link BiFunction} that reduces the number values of cells for the given aggregate name, or null if the
+     * name is not an aggregate. Each {@link BiFunction} consumes the {@link Stream} in a single pass without collecting
+     * the numbers, and uses the {@link ExpressionNumberContext} for all arithmetic.
+     */
+    private static BiFunction<Stream<ExpressionNumber>, ExpressionNumberContext, Optional<ExpressionNumber>> aggregate(final StorageName name) {
+        final BiFunction<Stream<ExpressionNumber>, ExpressionNumberContext, Optional<ExpressionNumber>> aggregate;
+
+        switch (name.value()) {
+            case AVERAGE_AGGREGATE:
+                aggregate = SpreadsheetTerminalStorageSpreadsheetCell::average;
+                break;
+            case COUNT_AGGREGATE:
+                aggregate = (n, c) -> Optional.of(
+                    c.expressionNumberKind()
+                        .create(
+                            n.count()
+                        )
+                );
+                break;
+            case MAX_AGGREGATE:
+                aggregate = (n, c) -> n.max(ExpressionNumber::compareTo);
+                break;
+            case MIN_AGGREGATE:
+                aggregate = (n, c) -> n.min(ExpressionNumber::compareTo);
+                break;
+            case SUM_AGGREGATE:
+                aggregate = (n, c) -> Optional.of(
+                    n.reduce(
+                        c.expressionNumberKind()
+                            .zero(),
+                        (l, r) -> l.add(
+                            r,
+                            c
+                        )
+                    )
+                );
+                break;
+            default:
+                aggregate = null;
+                break;
+        }
+
+        return aggregate;
+    }
+
+    private static Optional<ExpressionNumber> average(final Stream<ExpressionNumber> numbers,
+                                                      final ExpressionNumberContext context) {
+        final ExpressionNumberKind kind = context.expressionNumberKind();
+
+        ExpressionNumber sum = kind.zero();
+        long count = 0;
+
+        final Iterator<ExpressionNumber> iterator = numbers.iterator();
+        while (iterator.hasNext()) {
+            sum = sum.add(
+                iterator.next(),
+                context
+            );
+            count++;
+        }
+
+        return 0 == count ?
+            Optional.empty() :
+            Optional.of(
+                sum.divide(
+                    kind.create(count),
+                    context
+                )
+            );
+    }
+
+    /**
+     * Aggregates use the {@link ExpressionNumberKind}, precision and {@link java.math.RoundingMode} of the current
+     * spreadsheet, so results match its own functions.
+     */
+    private static ExpressionNumberContext expressionNumberContext(final SpreadsheetStorageContext context) {
+        final SpreadsheetId id = context.environmentValue(SpreadsheetEnvironmentContext.SPREADSHEET_ID)
+            .orElseThrow(() -> new IllegalArgumentException("Missing " + SpreadsheetId.class.getSimpleName()));
+
+        final SpreadsheetMetadata metadata = context.loadMetadata(id)
+            .orElseThrow(() -> new IllegalArgumentException("Missing " + SpreadsheetMetadata.class.getSimpleName() + " " + id));
+
+        return ExpressionNumberContexts.basic(
+            metadata.getOrFail(SpreadsheetMetadataPropertyName.EXPRESSION_NUMBER_KIND),
+            new MathContext(
+                metadata.getOrFail(SpreadsheetMetadataPropertyName.PRECISION),
+                metadata.getOrFail(SpreadsheetMetadataPropertyName.ROUNDING_MODE)
+            )
+        );
+    }
+
+    /**
+     * Only number values participate in aggregates, cells without a value, text or errors are ignored.
+     */
+    private static Stream<ExpressionNumber> numbers(final Set<SpreadsheetCell> cells) {
+        return cells.stream()
+            .map(c -> c.formula()
+                .value()
+                .orElse(null)
+            ).filter(v -> v instanceof ExpressionNumber)
+            .map(v -> (ExpressionNumber) v);
+    }
+
     // Object...........................................................................................................
 
     @Override
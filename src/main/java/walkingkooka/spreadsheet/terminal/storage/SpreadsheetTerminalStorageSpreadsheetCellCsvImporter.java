@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.spreadsheet.terminal.storage;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.spreadsheet.engine.collection.SpreadsheetCellSet;
+import walkingkooka.spreadsheet.formula.SpreadsheetFormula;
+import walkingkooka.spreadsheet.reference.SpreadsheetCellReference;
+import walkingkooka.spreadsheet.value.SpreadsheetCell;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads CSV or TSV text one character at a time from a {@link Reader}, creating a cell for each non-empty field,
+ * relative to an anchor cell. Cells are given to the saver in batches, so at most one batch is held at a time. A field
+ * may be quoted when it starts with a double quote, with two double quotes within a quoted field being a single double
+ * quote. A double quote anywhere else in a field is part of the field.
+ * <br>
+ * {@link #check(Reader, char, SpreadsheetCellReference)} reads the text without saving, so malformed text or text that
+ * would extend past the last column or row never saves any cells, when called before
+ * {@link #importCells(Reader, char, SpreadsheetCellReference, int, Consumer)}. A failure within the saver itself leaves
+ * the batches before it saved.
+ * <br>
+ * Every field is imported as text by prefixing an apostrophe, so a field such as <code>=1+2</code> never becomes a live
+ * formula. Numbers are also text, as whether <code>1.5</code> or <code>1,5</code> is a number depends on the locale of
+ * the spreadsheet, which is not known here.
+ */
+final class SpreadsheetTerminalStorageSpreadsheetCellCsvImporter {
+
+    /**
+     * The default number of cells saved together.
+     */
+    final static int BATCH_SIZE = 1000;
+
+    /**
+     * Reads all the text without saving, failing if a quote is not closed or if a non-empty field is beyond the last
+     * column or row of a spreadsheet, as the reference of every cell is computed from the anchor.
+     */
+    static void check(final Reader text,
+                      final char separator,
+                      final SpreadsheetCellReference anchor) {
+        importCells(
+            text,
+            separator,
+            anchor,
+            BATCH_SIZE,
+            CHECK
+        );
+    }
+
+    /**
+     * The saver for {@link #check(Reader, char, SpreadsheetCellReference)}, which ignores every batch.
+     */
+    private final static Consumer<SpreadsheetCellSet> CHECK = (c) -> {
+    };
+
+    /**
+     * Imports all the cells in a single pass and returns the number of cells given to the saver.
+     */
+    static int importCells(final Reader text,
+                           final char separator,
+                           final SpreadsheetCellReference anchor,
+                           final int batchSize,
+                           final Consumer<SpreadsheetCellSet> saver) {
+        final SpreadsheetTerminalStorageSpreadsheetCellCsvImporter importer = new SpreadsheetTerminalStorageSpreadsheetCellCsvImporter(
+            anchor,
+            batchSize,
+            saver
+        );
+        importer.read(
+            text,
+            separator
+        );
+        importer.flush();
+
+        return importer.count;
+    }
+
+    private SpreadsheetTerminalStorageSpreadsheetCellCsvImporter(final SpreadsheetCellReference anchor,
+                                                                 final int batchSize,
+                                                                 final Consumer<SpreadsheetCellSet> saver) {
+        this.anchor = anchor;
+        this.batchSize = batchSize;
+        this.saver = saver;
+    }
+
+    private void read(final Reader text,
+                      final char separator) {
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        int c = next(text);
+        while (-1 != c) {
+            if (quoted) {
+                if ('"' == c) {
+                    int next = next(text);
+                    if ('"' == next) {
+                        field.append('"');
+                        next = next(text);
+                    } else {
+                        quoted = false;
+                    }
+                    c = next;
+                    continue;
+                }
+                field.append((char) c);
+            } else {
+                switch (c) {
+                    case '"':
+                        if (fieldStart) {
+                            quoted = true;
+                        } else {
+                            field.append('"');
+                        }
+                        fieldStart = false;
+                        break;
+                    case '\r':
+                        this.endField(field);
+                        this.endRow();
+                        fieldStart = true;
+
+                        // CR LF is a single line ending
+                        c = next(text);
+                        if ('\n' == c) {
+                            c = next(text);
+                        }
+                        continue;
+                    case '\n':
+                        this.endField(field);
+                        this.endRow();
+                        fieldStart = true;
+                        break;
+                    default:
+                        if (separator == c) {
+                            this.endField(field);
+                            fieldStart = true;
+                        } else {
+                            field.append((char) c);
+                            fieldStart = false;
+                        }
+                        break;
+                }
+            }
+
+            c = next(text);
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Missing closing quote");
+        }
+
+        // last line without a line ending
+        if (field.length() > 0 || this.column > 0) {
+            this.endField(field);
+        }
+    }
+
+    /**
+     * Returns the next character or -1 at the end of the text.
+     */
+    private static int next(final Reader text) {
+        try {
+            return text.read();
+        } catch (final IOException cause) {
+            throw new IllegalArgumentException(cause.getMessage(), cause);
+        }
+    }
+
+    private void endField(final StringBuilder field) {
+        if (field.length() > 0) {
+            this.batch.add(
+                this.anchor.add(
+                    this.column,
+                    this.row
+                ).setFormula(
+                    SpreadsheetFormula.EMPTY.setText(
+                        TEXT_PREFIX + field.toString()
+                    )
+                )
+            );
+
+            if (this.batch.size() >= this.batchSize) {
+                this.flush();
+            }
+        }
+
+        field.setLength(0);
+        this.column++;
+    }
+
+    /**
+     * A leading apostrophe marks the formula as text.
+     */
+    private final static char TEXT_PREFIX = '\'';
+
+    private void endRow() {
+        this.column = 0;
+        this.row++;
+    }
+
+    private void flush() {
+        final List<SpreadsheetCell> batch = this.batch;
+
+        if (false == batch.isEmpty()) {
+            this.saver.accept(
+                SpreadsheetCellSet.EMPTY.concatAll(batch)
+            );
+            this.count += batch.size();
+            batch.clear();
+        }
+    }
+
+    private final SpreadsheetCellReference anchor;
+
+    private final int batchSize;
+
+    private final Consumer<SpreadsheetCellSet> saver;
+
+    private final List<SpreadsheetCell> batch = Lists.array();
+
+    private int column;
+
+    private int row;
+
+    private int count;
+}
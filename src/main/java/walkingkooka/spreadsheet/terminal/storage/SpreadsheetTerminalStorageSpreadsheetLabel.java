@@ -18,6 +18,7 @@
 package walkingkooka.spreadsheet.terminal.storage;
 
 import walkingkooka.collect.list.ImmutableList;
+import walkingkooka.environment.AuditInfo;
 import walkingkooka.net.header.MediaType;
 import walkingkooka.spreadsheet.net.SpreadsheetMediaTypes;
 import walkingkooka.spreadsheet.reference.SpreadsheetLabelMapping;
@@ -39,7 +40,10 @@ import java.util.Optional;
  * <pre>
  * /label/SpreadsheetLabelName
  * </pre>
- * for the {@link StorageValue}.
+ * for the {@link StorageValue}. Saving a {@link List} of {@link SpreadsheetLabelMapping} to <code>/label</code> saves
+ * all mappings with a single storage call. This only batches the routing, each mapping is still saved with its own
+ * {@link SpreadsheetStorageContext#saveLabel(SpreadsheetLabelMapping)}, and there is no matching batch load. The saved
+ * mappings have no content type, as there is no media type for a {@link List} of {@link SpreadsheetLabelMapping}.
  */
 final class SpreadsheetTerminalStorageSpreadsheetLabel extends SpreadsheetTerminalStorage {
 
@@ -98,7 +102,16 @@ final class SpreadsheetTerminalStorageSpreadsheetLabel extends SpreadsheetTermin
         switch (names.size()) {
             case 0:
             case 1:
-                throw new IllegalArgumentException("Missing label");
+                return StorageValue.with(
+                    value.path(),
+                    Optional.of(
+                        saveMappings(
+                            value.value()
+                                .orElseThrow(() -> new IllegalArgumentException("Missing " + SpreadsheetLabelMapping.class.getSimpleName())),
+                            context
+                        )
+                    )
+                );
             case 2:
                 SpreadsheetLabelMapping labelMapping = context.convertOrFail(
                     value.value()
@@ -116,6 +129,30 @@ final class SpreadsheetTerminalStorageSpreadsheetLabel extends SpreadsheetTermin
         }
     }
 
+    /**
+     * The value and then each mapping are converted by the {@link SpreadsheetStorageContext} before any is saved, so a
+     * mapping that cannot be converted fails the batch without saving the others. Mappings are then saved one at a
+     * time, so a failure while saving leaves the mappings before it saved.
+     */
+    private static List<SpreadsheetLabelMapping> saveMappings(final Object value,
+                                                              final SpreadsheetStorageContext context) {
+        final List<?> mappings = context.convertOrFail(
+            value,
+            List.class
+        );
+
+        final List<SpreadsheetLabelMapping> converted = mappings.stream()
+            .map(m -> context.convertOrFail(
+                    m,
+                    SpreadsheetLabelMapping.class
+                )
+            ).collect(ImmutableList.collector());
+
+        return converted.stream()
+            .map(context::saveLabel)
+            .collect(ImmutableList.collector());
+    }
+
     @Override
     void deleteNonNull(final StoragePath path,
                        final SpreadsheetStorageContext context) {
@@ -158,6 +195,9 @@ final class SpreadsheetTerminalStorageSpreadsheetLabel extends SpreadsheetTermin
                 throw new IllegalArgumentException("Invalid path after label");
         }
 
+        // shared by all StorageValueInfo
+        final AuditInfo auditInfo = context.createdAuditInfo();
+
         return context.findLabelsByName(
                 labelName,
                 offset,
@@ -170,7 +210,7 @@ final class SpreadsheetTerminalStorageSpreadsheetLabel extends SpreadsheetTermin
                             l.text()
                         )
                     ),
-                    context.createdAuditInfo()
+                    auditInfo
                 )
             ).collect(ImmutableList.collector());
     }
@@ -18,6 +18,7 @@
 package walkingkooka.spreadsheet.terminal.storage;
 
 import walkingkooka.collect.list.ImmutableList;
+import walkingkooka.environment.AuditInfo;
 import walkingkooka.net.header.MediaType;
 import walkingkooka.spreadsheet.meta.SpreadsheetId;
 import walkingkooka.spreadsheet.meta.SpreadsheetMetadata;
@@ -35,11 +36,14 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * A {@link Storage} that supports CRUD operations for {@link SpreadsheetMetadata}.
+ * A {@link Storage} that supports CRUD operations for {@link SpreadsheetMetadata}, or a single property.
  * <pre>
  *  /spreadsheet/SpreadsheetId
  *  /spreadsheet/123
+ *  /spreadsheet/SpreadsheetId/property/SpreadsheetMetadataPropertyName
+ *  /spreadsheet/123/property/locale
  * </pre>
+ * Single property values have no content type when loaded or saved, as there is no media type for each property value.
  */
 final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTerminalStorage {
 
@@ -55,9 +59,10 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
     }
 
     /**
-     * Loads the {@link SpreadsheetMetadata} with the given {@link SpreadsheetId}.
+     * Loads the {@link SpreadsheetMetadata} with the given {@link SpreadsheetId}, or a single property value.
      * <pre>
      * /spreadsheet/SpreadsheetId
+     * /spreadsheet/SpreadsheetId/property/SpreadsheetMetadataPropertyName
      * </pre>
      */
     @Override
@@ -84,6 +89,20 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
                         ).setContentType(MEDIA_TYPE)
                     );
                 break;
+            case 4:
+                final SpreadsheetMetadataPropertyName<?> propertyName = parsePropertyName(storageNames);
+
+                loaded = context.loadMetadata(
+                        parseSpreadsheetId(
+                            storageNames.get(1)
+                        )
+                    ).flatMap(m -> m.get(propertyName))
+                    .map(v -> StorageValue.with(
+                            path,
+                            Optional.of(v)
+                        )
+                    );
+                break;
             default:
                 throw new IllegalArgumentException("Invalid path");
         }
@@ -102,6 +121,17 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
                 break;
             case 2:
                 throw new IllegalArgumentException("Invalid path, SpreadsheetId should not be present");
+            case 4:
+                return saveProperty(
+                    value,
+                    parseSpreadsheetId(
+                        storageNames.get(1)
+                    ),
+                    checkNotReadOnly(
+                        parsePropertyName(storageNames)
+                    ),
+                    context
+                );
             default:
                 throw new IllegalArgumentException("Invalid path");
         }
@@ -126,7 +156,53 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
     }
 
     /**
-     * Deletes the {@link SpreadsheetId} in the path.
+     * Patches a single property, leaving all other properties unchanged. An empty value removes the property. The
+     * {@link SpreadsheetId} and {@link AuditInfo} properties are read only.
+     */
+    private static StorageValue saveProperty(final StorageValue value,
+                                             final SpreadsheetId id,
+                                             final SpreadsheetMetadataPropertyName<?> propertyName,
+                                             final SpreadsheetStorageContext context) {
+        final SpreadsheetMetadata saved = context.saveMetadata(
+            patch(
+                loadMetadataOrFail(
+                    id,
+                    context
+                ),
+                propertyName,
+                value.value(),
+                context
+            )
+        );
+
+        return StorageValue.with(
+            value.path(),
+            saved.get(propertyName)
+                .map(v -> (Object) v)
+        );
+    }
+
+    /**
+     * The value is converted to the type of the property, so text such as <code>en-AU</code> may be saved to
+     * <code>locale</code>. An empty value removes the property.
+     */
+    private static <T> SpreadsheetMetadata patch(final SpreadsheetMetadata metadata,
+                                                 final SpreadsheetMetadataPropertyName<T> propertyName,
+                                                 final Optional<?> value,
+                                                 final SpreadsheetStorageContext context) {
+        return value.isPresent() ?
+            metadata.set(
+                propertyName,
+                context.convertOrFail(
+                    value.get(),
+                    propertyName.type()
+                )
+            ) :
+            metadata.remove(propertyName);
+    }
+
+    /**
+     * Deletes the {@link SpreadsheetId} in the path, or a single property.
      */
     @Override
     void deleteNonNull(final StoragePath path,
@@ -143,6 +219,20 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
                     )
                 );
                 break;
+            case 4:
+                context.saveMetadata(
+                    loadMetadataOrFail(
+                        parseSpreadsheetId(
+                            names.get(1)
+                        ),
+                        context
+                    ).remove(
+                        checkNotReadOnly(
+                            parsePropertyName(names)
+                        )
+                    )
+                );
+                break;
             default:
                 throw new IllegalArgumentException("Invalid path");
         }
@@ -173,6 +263,9 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
                 throw new IllegalArgumentException("Invalid path");
         }
 
+        // shared by all StorageValueInfo
+        final AuditInfo auditInfo = context.createdAuditInfo();
+
         return context.findMetadataBySpreadsheetName(
                 name,
                 offset,
@@ -186,7 +279,7 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
                                 .toString()
                         )
                     ),
-                    context.createdAuditInfo()
+                    auditInfo
                 )
             ).collect(ImmutableList.collector());
     }
@@ -197,6 +290,43 @@ final class SpreadsheetTerminalStorageSpreadsheetMetadata extends SpreadsheetTer
         );
     }
 
+    /**
+     * The path segment before the {@link SpreadsheetMetadataPropertyName}, also used by
+     * {@link SpreadsheetTerminalStorageRouter} to route single property paths here.
+     */
+    final static String PROPERTY = "property";
+
+    /**
+     * Parses the property name from a path such as <code>/1/property/locale</code>.
+     */
+    private static SpreadsheetMetadataPropertyName<?> parsePropertyName(final List<StorageName> names) {
+        if (false == PROPERTY.equals(names.get(2).value())) {
+            throw new IllegalArgumentException("Invalid path");
+        }
+
+        return SpreadsheetMetadataPropertyName.with(
+            names.get(3)
+                .value()
+        );
+    }
+
+    /**
+     * The {@link SpreadsheetId} and {@link AuditInfo} are managed by the store. Removing the id would save the metadata
+     * as a new spreadsheet, and a different id would overwrite another spreadsheet.
+     */
+    private static SpreadsheetMetadataPropertyName<?> checkNotReadOnly(final SpreadsheetMetadataPropertyName<?> propertyName) {
+        if (SpreadsheetMetadataPropertyName.SPREADSHEET_ID.equals(propertyName) || SpreadsheetMetadataPropertyName.AUDIT_INFO.equals(propertyName)) {
+            throw new IllegalArgumentException("Read only property " + propertyName.value());
+        }
+        return propertyName;
+    }
+
+    private static SpreadsheetMetadata loadMetadataOrFail(final SpreadsheetId id,
+                                                          final SpreadsheetStorageContext context) {
+        return context.loadMetadata(id)
+            .orElseThrow(() -> new IllegalArgumentException("Missing " + SpreadsheetMetadata.class.getSimpleName() + " " + id));
+    }
+
     // Object...........................................................................................................
 
     @Override
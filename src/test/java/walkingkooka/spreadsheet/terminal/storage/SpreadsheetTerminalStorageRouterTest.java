@@ -68,6 +68,7 @@ import walkingkooka.tree.text.TextNode;
 import walkingkooka.validation.form.provider.FormHandlerAliasSet;
 import walkingkooka.validation.provider.ValidatorAliasSet;
 
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -295,6 +296,23 @@ public final class SpreadsheetTerminalStorageRouterTest implements StorageTestin
         );
     }
 
+    @Test
+    public void testLoadWithSpreadsheetIdAndMetadataProperty() {
+        final StoragePath path = StoragePath.parse("/spreadsheet/222/property/spreadsheet-name");
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            this.createContext(),
+            StorageValue.with(
+                path,
+                Optional.of(
+                    METADATA2.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_NAME)
+                )
+            )
+        );
+    }
+
     @Test
     public void testLoadWithCell() {
         final StoragePath path = StoragePath.parse("/cell/A1");
@@ -790,6 +808,99 @@ public final class SpreadsheetTerminalStorageRouterTest implements StorageTestin
         );
     }
 
+    @Test
+    public void testSaveWithSpreadsheetIdAndMetadataProperty() {
+        final SpreadsheetTerminalStorageRouter storage = this.createStorage();
+        final SpreadsheetStorageContext context = this.createContext();
+
+        final StoragePath path = StoragePath.parse("/spreadsheet/222/property/spreadsheet-name");
+        final SpreadsheetName name = SpreadsheetName.with("Patched222");
+
+        this.saveAndCheck(
+            storage,
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            ),
+            context,
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            )
+        );
+
+        this.checkEquals(
+            name,
+            context.loadMetadata(SPREADSHEET_ID2)
+                .get()
+                .getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_NAME)
+        );
+    }
+
+    @Test
+    public void testSaveWithSpreadsheetIdAndMetadataPropertyConvertsText() {
+        final SpreadsheetTerminalStorageRouter storage = this.createStorage();
+        final SpreadsheetStorageContext context = this.createContext();
+
+        final StoragePath path = StoragePath.parse("/spreadsheet/222/property/locale");
+        final Locale locale = Locale.forLanguageTag("fr-FR");
+
+        this.saveAndCheck(
+            storage,
+            StorageValue.with(
+                path,
+                Optional.of("fr-FR")
+            ),
+            context,
+            StorageValue.with(
+                path,
+                Optional.of(locale)
+            )
+        );
+
+        this.checkEquals(
+            locale,
+            context.loadMetadata(SPREADSHEET_ID2)
+                .get()
+                .getOrFail(SpreadsheetMetadataPropertyName.LOCALE)
+        );
+    }
+
+    @Test
+    public void testSaveWithSpreadsheetIdAndNonPropertyUsesOther() {
+        final SpreadsheetTerminalStorageRouter storage = this.createStorage();
+        final SpreadsheetStorageContext context = this.createContext();
+
+        // spreadsheet-name without the property segment is not a metadata property
+        final StoragePath path = StoragePath.parse("/spreadsheet/222/spreadsheet-name");
+        final String value = "value123";
+
+        storage.save(
+            StorageValue.with(
+                path,
+                Optional.of(value)
+            ),
+            context
+        );
+
+        this.checkEquals(
+            Optional.of(value),
+            storage.load(
+                path,
+                context
+            ).flatMap(StorageValue::value),
+            "other"
+        );
+
+        this.checkEquals(
+            METADATA2.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_NAME),
+            context.loadMetadata(SPREADSHEET_ID2)
+                .get()
+                .getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_NAME),
+            "metadata unchanged"
+        );
+    }
+
     // Storage.delete...................................................................................................
 
     @Test
@@ -821,6 +932,32 @@ public final class SpreadsheetTerminalStorageRouterTest implements StorageTestin
         );
     }
 
+    @Test
+    public void testDeleteWithSpreadsheetIdAndMetadataProperty() {
+        final SpreadsheetTerminalStorageRouter storage = this.createStorage();
+        final SpreadsheetStorageContext context = this.createContext();
+
+        final StoragePath path = StoragePath.parse("/spreadsheet/222/property/spreadsheet-name");
+
+        storage.delete(
+            path,
+            context
+        );
+
+        this.loadAndCheck(
+            storage,
+            path,
+            context
+        );
+
+        this.checkEquals(
+            Optional.empty(),
+            context.loadMetadata(SPREADSHEET_ID2)
+                .get()
+                .get(SpreadsheetMetadataPropertyName.SPREADSHEET_NAME)
+        );
+    }
+
     @Test
     public void testDeleteWithUnknownCell() {
         this.createStorage()
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.spreadsheet.terminal.storage;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.spreadsheet.engine.collection.SpreadsheetCellSet;
+import walkingkooka.spreadsheet.formula.SpreadsheetFormula;
+import walkingkooka.spreadsheet.reference.SpreadsheetCellReference;
+import walkingkooka.spreadsheet.reference.SpreadsheetSelection;
+import walkingkooka.spreadsheet.value.SpreadsheetCell;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SpreadsheetTerminalStorageSpreadsheetCellCsvImporterTest implements ClassTesting<SpreadsheetTerminalStorageSpreadsheetCellCsvImporter> {
+
+    private final static SpreadsheetCellReference ANCHOR = SpreadsheetSelection.parseCell("B2");
+
+    @Test
+    public void testImportEmpty() {
+        this.importCellsAndCheck(
+            "",
+            ',',
+            10
+        );
+    }
+
+    @Test
+    public void testImportCsv() {
+        this.importCellsAndCheck(
+            "1,2\n3,4\n",
+            ',',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'1"))
+                .concat(cell("C2", "'2"))
+                .concat(cell("B3", "'3"))
+                .concat(cell("C3", "'4"))
+        );
+    }
+
+    @Test
+    public void testImportCsvWithoutFinalLineEnding() {
+        this.importCellsAndCheck(
+            "1,2\r\n3",
+            ',',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'1"))
+                .concat(cell("C2", "'2"))
+                .concat(cell("B3", "'3"))
+        );
+    }
+
+    @Test
+    public void testImportCsvSkipsEmptyFields() {
+        this.importCellsAndCheck(
+            ",2\n\n3,,5",
+            ',',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("C2", "'2"))
+                .concat(cell("B4", "'3"))
+                .concat(cell("D4", "'5"))
+        );
+    }
+
+    @Test
+    public void testImportCsvQuoted() {
+        this.importCellsAndCheck(
+            "\"a,b\",\"say \"\"hi\"\"\"\n",
+            ',',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'a,b"))
+                .concat(cell("C2", "'say \"hi\""))
+        );
+    }
+
+    @Test
+    public void testImportCsvQuoteWithinField() {
+        this.importCellsAndCheck(
+            "5\" pipe,2\n3\n",
+            ',',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'5\" pipe"))
+                .concat(cell("C2", "'2"))
+                .concat(cell("B3", "'3"))
+        );
+    }
+
+    @Test
+    public void testImportTsv() {
+        this.importCellsAndCheck(
+            "1\t2,3\n",
+            '\t',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'1"))
+                .concat(cell("C2", "'2,3"))
+        );
+    }
+
+    @Test
+    public void testImportNumbersAsText() {
+        this.importCellsAndCheck(
+            "hello,=1+2,-1.5,1.2.3\n",
+            ',',
+            10,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'hello"))
+                .concat(cell("C2", "'=1+2"))
+                .concat(cell("D2", "'-1.5"))
+                .concat(cell("E2", "'1.2.3"))
+        );
+    }
+
+    @Test
+    public void testImportBatches() {
+        this.importCellsAndCheck(
+            "1,2,3\n4,5\n",
+            ',',
+            2,
+            SpreadsheetCellSet.EMPTY.concat(cell("B2", "'1"))
+                .concat(cell("C2", "'2")),
+            SpreadsheetCellSet.EMPTY.concat(cell("D2", "'3"))
+                .concat(cell("B3", "'4")),
+            SpreadsheetCellSet.EMPTY.concat(cell("C3", "'5"))
+        );
+    }
+
+    @Test
+    public void testCheck() {
+        SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.check(
+            new StringReader("1,\"2\"\n3\n"),
+            ',',
+            ANCHOR
+        );
+    }
+
+    @Test
+    public void testCheckMissingClosingQuoteFails() {
+        this.checkFails(
+            "\"1,2",
+            "Missing closing quote"
+        );
+    }
+
+    @Test
+    public void testCheckMissingClosingQuoteAfterFullBatchFails() {
+        this.checkFails(
+            "1,2\n3,\"4",
+            "Missing closing quote"
+        );
+    }
+
+    @Test
+    public void testCheckBeyondLastColumnFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.check(
+                new StringReader("1,2"),
+                ',',
+                SpreadsheetSelection.parseCell("XFD1")
+            )
+        );
+    }
+
+    private void checkFails(final String text,
+                            final String expected) {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.check(
+                new StringReader(text),
+                ',',
+                ANCHOR
+            )
+        );
+
+        this.checkEquals(
+            expected,
+            thrown.getMessage()
+        );
+    }
+
+    private void importCellsAndCheck(final String text,
+                                     final char separator,
+                                     final int batchSize,
+                                     final SpreadsheetCellSet... expected) {
+        final List<SpreadsheetCellSet> batches = Lists.array();
+
+        SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.check(
+            new StringReader(text),
+            separator,
+            ANCHOR
+        );
+
+        final int count = SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.importCells(
+            new StringReader(text),
+            separator,
+            ANCHOR,
+            batchSize,
+            batches::add
+        );
+
+        this.checkEquals(
+            Lists.of(expected),
+            batches,
+            "batches"
+        );
+
+        this.checkEquals(
+            batches.stream()
+                .mapToInt(SpreadsheetCellSet::size)
+                .sum(),
+            count,
+            "count"
+        );
+    }
+
+    private static SpreadsheetCell cell(final String reference,
+                                        final String formula) {
+        return SpreadsheetSelection.parseCell(reference)
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText(formula)
+            );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<SpreadsheetTerminalStorageSpreadsheetCellCsvImporter> type() {
+        return SpreadsheetTerminalStorageSpreadsheetCellCsvImporter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -27,6 +27,7 @@ import walkingkooka.locale.LocaleContext;
 import walkingkooka.locale.LocaleContexts;
 import walkingkooka.net.Url;
 import walkingkooka.net.email.EmailAddress;
+import walkingkooka.net.header.MediaType;
 import walkingkooka.plugin.ProviderContext;
 import walkingkooka.plugin.ProviderContexts;
 import walkingkooka.reflect.JavaVisibility;
@@ -73,6 +74,7 @@ import walkingkooka.storage.StorageValueInfo;
 import walkingkooka.storage.Storages;
 import walkingkooka.terminal.TerminalContexts;
 import walkingkooka.text.LineEnding;
+import walkingkooka.tree.expression.ExpressionNumber;
 import walkingkooka.tree.expression.function.provider.ExpressionFunctionProviders;
 import walkingkooka.tree.text.TextStyle;
 import walkingkooka.validation.form.provider.FormHandlerAliasSet;
@@ -80,6 +82,7 @@ import walkingkooka.validation.form.provider.FormHandlerProviders;
 import walkingkooka.validation.provider.ValidatorAliasSet;
 import walkingkooka.validation.provider.ValidatorProviders;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -215,6 +218,351 @@ public final class SpreadsheetTerminalStorageSpreadsheetCellTest implements Stor
         );
     }
 
+    @Test
+    public void testLoadCellRangeWithErrorFilter() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        final SpreadsheetCell a1 = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        final SpreadsheetCell a2 = SpreadsheetSelection.parseCell("A2")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=1/0")
+            );
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    a1,
+                    a2
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        final StoragePath path = StoragePath.parse("/A1:A2/error");
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            storageContext,
+            StorageValue.with(
+                path,
+                Optional.of(
+                    SpreadsheetCellSet.EMPTY.concat(
+                        spreadsheetContext.storeRepository()
+                            .cells()
+                            .loadOrFail(a2.reference())
+                    )
+                )
+            ).setContentType(SpreadsheetMediaTypes.MEMORY_CELL)
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithNonEmptyFilter() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        final SpreadsheetCell a1 = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        final SpreadsheetCell a2 = SpreadsheetSelection.parseCell("A2")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=2")
+            );
+
+        final SpreadsheetCell a3 = SpreadsheetSelection.parseCell("A3")
+            .setFormula(SpreadsheetFormula.EMPTY)
+            .setStyle(
+                TextStyle.parse("color: red")
+            );
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    a1,
+                    a2,
+                    a3
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        final StoragePath path = StoragePath.parse("/A1:A3/non-empty");
+
+        final SpreadsheetCellStore cellStore = spreadsheetContext.storeRepository()
+            .cells();
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            storageContext,
+            StorageValue.with(
+                path,
+                Optional.of(
+                    SpreadsheetCellSet.EMPTY.concat(
+                        cellStore.loadOrFail(a1.reference())
+                    ).concat(
+                        cellStore.loadOrFail(a2.reference())
+                    )
+                )
+            ).setContentType(SpreadsheetMediaTypes.MEMORY_CELL)
+        );
+
+        this.loadCellSetAndCheck(
+            path,
+            storageContext
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithValueFilter() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        final SpreadsheetCell a1 = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        final SpreadsheetCell a2 = SpreadsheetSelection.parseCell("A2")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=1/0")
+            );
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    a1,
+                    a2
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        final StoragePath path = StoragePath.parse("/A1:A2/value");
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            storageContext,
+            StorageValue.with(
+                path,
+                Optional.of(
+                    SpreadsheetCellSet.EMPTY.concat(
+                        spreadsheetContext.storeRepository()
+                            .cells()
+                            .loadOrFail(a1.reference())
+                    )
+                )
+            ).setContentType(SpreadsheetMediaTypes.MEMORY_CELL)
+        );
+
+        this.loadCellSetAndCheck(
+            path,
+            storageContext
+        );
+    }
+
+    /**
+     * Values tagged with {@link SpreadsheetMediaTypes#MEMORY_CELL} must be a {@link SpreadsheetCellSet}, not any
+     * {@link java.util.Set}.
+     */
+    private void loadCellSetAndCheck(final StoragePath path,
+                                     final SpreadsheetStorageContext context) {
+        final Object cells = this.createStorage()
+            .load(
+                path,
+                context
+            ).flatMap(StorageValue::value)
+            .orElse(null);
+
+        this.checkEquals(
+            true,
+            cells instanceof SpreadsheetCellSet,
+            () -> path + " " + cells
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithFilterNoneMatching() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        SpreadsheetEngines.basic()
+            .saveCell(
+                SpreadsheetSelection.A1.setFormula(
+                    SpreadsheetFormula.EMPTY.setText("=1")
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        this.loadAndCheck(
+            this.createStorage(),
+            StoragePath.parse("/A1:A2/error"),
+            this.createContext(spreadsheetContext)
+        );
+    }
+
+    @Test
+    public void testLoadCellWithComputeIfNecessary() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        final SpreadsheetCell cell = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        SpreadsheetEngines.basic()
+            .saveCell(
+                cell,
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final StoragePath path = StoragePath.parse("/A1/compute-if-necessary");
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            this.createContext(spreadsheetContext),
+            StorageValue.with(
+                path,
+                Optional.of(
+                    SpreadsheetCellSet.EMPTY.concat(
+                        spreadsheetContext.storeRepository()
+                            .cells()
+                            .loadOrFail(cell.reference())
+                    )
+                )
+            ).setContentType(SpreadsheetMediaTypes.MEMORY_CELL)
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithAverage() {
+        this.loadAggregateAndCheck(
+            "/A1:A4/average",
+            "2"
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithAverageWithoutNumbers() {
+        final StoragePath path = StoragePath.parse("/B1:B2/average");
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            this.createContextWithNumbers(),
+            StorageValue.with(
+                path,
+                Optional.empty()
+            )
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithCount() {
+        this.loadAggregateAndCheck(
+            "/A1:A4/count",
+            "3"
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithMax() {
+        this.loadAggregateAndCheck(
+            "/A1:A4/max",
+            "3"
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithMin() {
+        this.loadAggregateAndCheck(
+            "/A1:A4/min",
+            "1"
+        );
+    }
+
+    @Test
+    public void testLoadCellRangeWithSum() {
+        this.loadAggregateAndCheck(
+            "/A1:A4/sum",
+            "6"
+        );
+    }
+
+    private void loadAggregateAndCheck(final String path,
+                                       final String expected) {
+        this.loadAggregateAndCheck(
+            this.createStorage(),
+            path,
+            this.createContextWithNumbers(),
+            expected
+        );
+    }
+
+    private void loadAggregateAndCheck(final SpreadsheetTerminalStorageSpreadsheetCell storage,
+                                       final String path,
+                                       final SpreadsheetStorageContext context,
+                                       final String expected) {
+        final Object aggregate = storage.load(
+                StoragePath.parse(path),
+                context
+            ).flatMap(StorageValue::value)
+            .orElse(null);
+
+        this.checkEquals(
+            true,
+            aggregate instanceof ExpressionNumber,
+            () -> path + " " + aggregate
+        );
+
+        this.checkEquals(
+            0,
+            new BigDecimal(expected)
+                .compareTo(
+                    new BigDecimal(
+                        aggregate.toString()
+                    )
+                ),
+            () -> path + " " + aggregate
+        );
+    }
+
+    /**
+     * Creates a context with A1=1, A2=2, A3=3 and A4 an error.
+     */
+    private SpreadsheetStorageContext createContextWithNumbers() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    SpreadsheetSelection.A1.setFormula(
+                        SpreadsheetFormula.EMPTY.setText("=1")
+                    ),
+                    SpreadsheetSelection.parseCell("A2")
+                        .setFormula(
+                            SpreadsheetFormula.EMPTY.setText("=2")
+                        ),
+                    SpreadsheetSelection.parseCell("A3")
+                        .setFormula(
+                            SpreadsheetFormula.EMPTY.setText("=3")
+                        ),
+                    SpreadsheetSelection.parseCell("A4")
+                        .setFormula(
+                            SpreadsheetFormula.EMPTY.setText("=1/0")
+                        )
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        return this.createContext(spreadsheetContext);
+    }
+
     @Test
     public void testSaveWithInvalidCellReferenceFails() {
         final IllegalArgumentException thrown = assertThrows(
@@ -294,6 +642,155 @@ public final class SpreadsheetTerminalStorageSpreadsheetCellTest implements Stor
         );
     }
 
+    @Test
+    public void testSaveCsvWithUnknownFormatFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createStorage()
+                .save(
+                    StorageValue.with(
+                        StoragePath.parse("/A1/xml"),
+                        Optional.of("1,2")
+                    ),
+                    this.createContext()
+                )
+        );
+
+        this.checkEquals(
+            "Invalid path after selection",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testSaveCsvBeyondLastColumnFailsWithoutSaving() {
+        final SpreadsheetStorageContext context = this.createContext();
+
+        final SpreadsheetTerminalStorageSpreadsheetCell storage = this.createStorage();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> storage.save(
+                StorageValue.with(
+                    StoragePath.parse("/XFD1/csv"),
+                    Optional.of("1,2")
+                ),
+                context
+            )
+        );
+
+        this.loadAndCheck(
+            storage,
+            StoragePath.parse("/XFD1"),
+            context
+        );
+    }
+
+    @Test
+    public void testSaveCsv() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        final SpreadsheetTerminalStorageSpreadsheetCell storage = this.createStorage();
+
+        final StoragePath path = StoragePath.parse("/B2/csv");
+
+        this.saveAndCheck(
+            storage,
+            StorageValue.with(
+                path,
+                Optional.of("1,2\n3\n")
+            ),
+            storageContext,
+            StorageValue.with(
+                path,
+                Optional.of(3)
+            )
+        );
+
+        final SpreadsheetCellStore cellStore = spreadsheetContext.storeRepository()
+            .cells();
+
+        this.checkEquals(
+            "'3",
+            cellStore.loadOrFail(SpreadsheetSelection.parseCell("B3"))
+                .formula()
+                .text(),
+            "B3 formula"
+        );
+
+        this.checkEquals(
+            Optional.of("3"),
+            cellStore.loadOrFail(SpreadsheetSelection.parseCell("B3"))
+                .formula()
+                .value(),
+            "B3 value is text"
+        );
+    }
+
+    @Test
+    public void testSaveCsvWithContentType() {
+        final StoragePath path = StoragePath.parse("/A1/csv");
+
+        this.saveAndCheck(
+            this.createStorage(),
+            StorageValue.with(
+                path,
+                Optional.of("1,2")
+            ).setContentType(
+                MediaType.parse("text/csv")
+            ),
+            this.createContext(),
+            StorageValue.with(
+                path,
+                Optional.of(2)
+            )
+        );
+    }
+
+    @Test
+    public void testSaveCsvWithText() {
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        final SpreadsheetTerminalStorageSpreadsheetCell storage = this.createStorage();
+
+        storage.save(
+            StorageValue.with(
+                StoragePath.parse("/B2/csv"),
+                Optional.of("hello,=1+2\n")
+            ),
+            storageContext
+        );
+
+        final SpreadsheetCellStore cellStore = spreadsheetContext.storeRepository()
+            .cells();
+
+        this.checkEquals(
+            "'hello",
+            cellStore.loadOrFail(SpreadsheetSelection.parseCell("B2"))
+                .formula()
+                .text(),
+            "B2 formula"
+        );
+
+        this.checkEquals(
+            "'=1+2",
+            cellStore.loadOrFail(SpreadsheetSelection.parseCell("C2"))
+                .formula()
+                .text(),
+            "C2 formula"
+        );
+
+        this.checkEquals(
+            Optional.of("=1+2"),
+            cellStore.loadOrFail(SpreadsheetSelection.parseCell("C2"))
+                .formula()
+                .value(),
+            "C2 value is text not 3"
+        );
+    }
+
     @Test
     public void testDeleteMissingReferenceFails() {
         final IllegalArgumentException thrown = assertThrows(
@@ -341,6 +838,55 @@ public final class SpreadsheetTerminalStorageSpreadsheetCellTest implements Stor
         );
     }
 
+    @Test
+    public void testDeleteCellRange() {
+        final SpreadsheetCell a1 = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        final SpreadsheetCell a2 = SpreadsheetSelection.parseCell("A2")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=2")
+            );
+
+        final SpreadsheetCell b1 = SpreadsheetSelection.parseCell("B1")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=3")
+            );
+
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    a1,
+                    a2,
+                    b1
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        final SpreadsheetTerminalStorageSpreadsheetCell storage = this.createStorage();
+        storage.delete(
+            StoragePath.parse("/A1:A2"),
+            storageContext
+        );
+
+        this.listAndCheck(
+            storage,
+            StoragePath.ROOT,
+            0,
+            3,
+            storageContext,
+            StorageValueInfo.with(
+                StoragePath.parse("/B1"),
+                storageContext.createdAuditInfo()
+            )
+        );
+    }
+
     @Test
     public void testListWithExtraPathFails() {
         final IllegalArgumentException thrown = assertThrows(
@@ -360,6 +906,68 @@ public final class SpreadsheetTerminalStorageSpreadsheetCellTest implements Stor
         );
     }
 
+    @Test
+    public void testListWithUnknownFilterFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createStorage()
+                .list(
+                    StoragePath.parse("/A1/unknown-filter"),
+                    0,
+                    1,
+                    this.createContext()
+                )
+        );
+
+        this.checkEquals(
+            "Invalid path after selection",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testListWithErrorFilter() {
+        final SpreadsheetCell a1 = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        final SpreadsheetCell a2 = SpreadsheetSelection.parseCell("A2")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=1/0")
+            );
+
+        final SpreadsheetCell a3 = SpreadsheetSelection.parseCell("A3")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=3")
+            );
+
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    a1,
+                    a2,
+                    a3
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        this.listAndCheck(
+            this.createStorage(),
+            StoragePath.parse("/A1:A3/error"),
+            0,
+            3,
+            storageContext,
+            StorageValueInfo.with(
+                StoragePath.parse("/A2"),
+                storageContext.createdAuditInfo()
+            )
+        );
+    }
+
     @Test
     public void testListWithoutSelection() {
 
@@ -451,6 +1059,49 @@ public final class SpreadsheetTerminalStorageSpreadsheetCellTest implements Stor
         );
     }
 
+    @Test
+    public void testListWithOffsetAndCount() {
+        final SpreadsheetCell a1 = SpreadsheetSelection.A1.setFormula(
+            SpreadsheetFormula.EMPTY.setText("=1")
+        );
+
+        final SpreadsheetCell a2 = SpreadsheetSelection.parseCell("A2")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=2")
+            );
+
+        final SpreadsheetCell a3 = SpreadsheetSelection.parseCell("A3")
+            .setFormula(
+                SpreadsheetFormula.EMPTY.setText("=3")
+            );
+
+        final SpreadsheetContext spreadsheetContext = this.createSpreadsheetContext();
+
+        SpreadsheetEngines.basic()
+            .saveCells(
+                Sets.of(
+                    a1,
+                    a2,
+                    a3
+                ),
+                spreadsheetContext.spreadsheetEngineContext()
+            );
+
+        final SpreadsheetStorageContext storageContext = this.createContext(spreadsheetContext);
+
+        this.listAndCheck(
+            this.createStorage(),
+            StoragePath.parse("/A1:A3"),
+            1,
+            1,
+            storageContext,
+            StorageValueInfo.with(
+                StoragePath.parse("/A2"),
+                storageContext.createdAuditInfo()
+            )
+        );
+    }
+
     @Override
     public SpreadsheetTerminalStorageSpreadsheetCell createStorage() {
         return SpreadsheetTerminalStorageSpreadsheetCell.INSTANCE;
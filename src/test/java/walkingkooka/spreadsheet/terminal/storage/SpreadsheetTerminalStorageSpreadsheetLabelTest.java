@@ -18,6 +18,7 @@
 package walkingkooka.spreadsheet.terminal.storage;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.convert.Converters;
 import walkingkooka.environment.AuditInfo;
 import walkingkooka.environment.EnvironmentContexts;
@@ -221,6 +222,66 @@ public final class SpreadsheetTerminalStorageSpreadsheetLabelTest implements Sto
         );
     }
 
+    @Test
+    public void testSaveWithoutLabelAndMissingValueFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createStorage()
+                .save(
+                    StorageValue.with(
+                        StoragePath.ROOT,
+                        Optional.empty()
+                    ),
+                    this.createContext()
+                )
+        );
+
+        this.checkEquals(
+            "Missing SpreadsheetLabelMapping",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testSaveMany() {
+        final SpreadsheetStorageContext context = this.createContext();
+
+        final SpreadsheetTerminalStorageSpreadsheetLabel storage = this.createStorage();
+
+        this.saveAndCheck(
+            storage,
+            StorageValue.with(
+                StoragePath.ROOT,
+                Optional.of(
+                    Lists.of(
+                        MAPPING1,
+                        MAPPING2
+                    )
+                )
+            ),
+            context,
+            StorageValue.with(
+                StoragePath.ROOT,
+                Optional.of(
+                    Lists.of(
+                        MAPPING1,
+                        MAPPING2
+                    )
+                )
+            )
+        );
+
+        this.listAndCheck(
+            storage,
+            StoragePath.ROOT,
+            0,
+            3,
+            context,
+            INFO1,
+            INFO2
+        );
+    }
+
     @Test
     public void testDeleteMissingLabelFails() {
         final IllegalArgumentException thrown = assertThrows(
@@ -20,6 +20,7 @@ package walkingkooka.spreadsheet.terminal.storage;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Either;
 import walkingkooka.net.email.EmailAddress;
+import walkingkooka.net.header.MediaType;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.spreadsheet.SpreadsheetContext;
 import walkingkooka.spreadsheet.SpreadsheetContexts;
@@ -96,6 +97,241 @@ public final class SpreadsheetTerminalStorageSpreadsheetMetadataTest implements
         );
     }
 
+    @Test
+    public void testLoadProperty() {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(METADATA_EN_AU);
+
+        final StoragePath path = StoragePath.parse("/" + metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID) + "/property/locale");
+
+        this.loadAndCheck(
+            this.createStorage(),
+            path,
+            context,
+            StorageValue.with(
+                path,
+                Optional.of(
+                    metadata.getOrFail(SpreadsheetMetadataPropertyName.LOCALE)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testLoadPropertyWithoutPropertySegmentFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createStorage()
+                .load(
+                    StoragePath.parse("/1/unknown/locale"),
+                    new TestSpreadsheetStorageContext()
+                )
+        );
+
+        this.checkEquals(
+            "Invalid path",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testLoadPropertyMissing() {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(
+            METADATA_EN_AU.remove(SpreadsheetMetadataPropertyName.SPREADSHEET_NAME)
+        );
+
+        this.loadAndCheck(
+            this.createStorage(),
+            StoragePath.parse("/" + metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID) + "/property/spreadsheet-name"),
+            context
+        );
+    }
+
+    @Test
+    public void testSaveProperty() {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(METADATA_EN_AU);
+        final SpreadsheetId id = metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID);
+
+        final StoragePath path = StoragePath.parse("/" + id + "/property/spreadsheet-name");
+        final SpreadsheetName name = SpreadsheetName.with("Patched123");
+
+        final SpreadsheetTerminalStorageSpreadsheetMetadata storage = this.createStorage();
+
+        this.saveAndCheck(
+            storage,
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            ),
+            context,
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            )
+        );
+
+        this.loadAndCheck(
+            storage,
+            path,
+            context,
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            )
+        );
+
+        this.checkEquals(
+            metadata.getOrFail(SpreadsheetMetadataPropertyName.LOCALE),
+            context.loadMetadata(id)
+                .get()
+                .getOrFail(SpreadsheetMetadataPropertyName.LOCALE),
+            "other properties unchanged"
+        );
+    }
+
+    @Test
+    public void testSavePropertyClearsContentType() {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(METADATA_EN_AU);
+        final SpreadsheetId id = metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID);
+
+        final StoragePath path = StoragePath.parse("/" + id + "/property/spreadsheet-name");
+        final SpreadsheetName name = SpreadsheetName.with("Patched123");
+
+        this.saveAndCheck(
+            this.createStorage(),
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            ).setContentType(
+                MediaType.parse("text/plain")
+            ),
+            context,
+            StorageValue.with(
+                path,
+                Optional.of(name)
+            )
+        );
+    }
+
+    @Test
+    public void testSavePropertySpreadsheetIdFails() {
+        this.savePropertyReadOnlyAndCheck(
+            "spreadsheet-id",
+            Optional.of(
+                SpreadsheetId.with(2)
+            )
+        );
+    }
+
+    @Test
+    public void testSavePropertyAuditInfoFails() {
+        this.savePropertyReadOnlyAndCheck(
+            "audit-info",
+            Optional.empty()
+        );
+    }
+
+    private void savePropertyReadOnlyAndCheck(final String propertyName,
+                                              final Optional<Object> value) {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(METADATA_EN_AU);
+        final SpreadsheetId id = metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID);
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createStorage()
+                .save(
+                    StorageValue.with(
+                        StoragePath.parse("/" + id + "/property/" + propertyName),
+                        value
+                    ),
+                    context
+                )
+        );
+
+        this.checkEquals(
+            "Read only property " + propertyName,
+            thrown.getMessage()
+        );
+
+        this.checkEquals(
+            Optional.of(metadata),
+            context.loadMetadata(id),
+            "metadata unchanged"
+        );
+    }
+
+    @Test
+    public void testDeletePropertySpreadsheetIdFails() {
+        this.deletePropertyReadOnlyAndCheck("spreadsheet-id");
+    }
+
+    @Test
+    public void testDeletePropertyAuditInfoFails() {
+        this.deletePropertyReadOnlyAndCheck("audit-info");
+    }
+
+    private void deletePropertyReadOnlyAndCheck(final String propertyName) {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(METADATA_EN_AU);
+        final SpreadsheetId id = metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID);
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createStorage()
+                .delete(
+                    StoragePath.parse("/" + id + "/property/" + propertyName),
+                    context
+                )
+        );
+
+        this.checkEquals(
+            "Read only property " + propertyName,
+            thrown.getMessage()
+        );
+
+        this.checkEquals(
+            Optional.of(metadata),
+            context.loadMetadata(id),
+            "metadata unchanged"
+        );
+    }
+
+    @Test
+    public void testDeleteProperty() {
+        final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();
+
+        final SpreadsheetMetadata metadata = context.saveMetadata(
+            METADATA_EN_AU.set(
+                SpreadsheetMetadataPropertyName.SPREADSHEET_NAME,
+                SpreadsheetName.with("Deleted123")
+            )
+        );
+
+        final StoragePath path = StoragePath.parse("/" + metadata.getOrFail(SpreadsheetMetadataPropertyName.SPREADSHEET_ID) + "/property/spreadsheet-name");
+
+        final SpreadsheetTerminalStorageSpreadsheetMetadata storage = this.createStorage();
+        storage.delete(
+            path,
+            context
+        );
+
+        this.loadAndCheck(
+            storage,
+            path,
+            context
+        );
+    }
+
     @Test
     public void testSaveWithStoragePathIncludingSpreadsheetIdFails() {
         final TestSpreadsheetStorageContext context = new TestSpreadsheetStorageContext();